@@ -0,0 +1,191 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Класс найденных аннотированных классов.
+ * <p>
+ * Хранит полные названия классов, а загрузку выполняет только по запросу:
+ * пакетом, по умолчанию без инициализации классов, через указанный загрузчик классов.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class AnnotatedClasses
+{
+	/**
+	 * Коллекция полных названий найденных классов.
+	 */
+	@NotNull
+	private final List<@NotNull String> classNames;
+
+	/**
+	 * Загрузчик классов по умолчанию.
+	 */
+	@NotNull
+	private final ClassLoader classLoader;
+
+	/**
+	 * Конструктор для {@code AnnotatedClasses}.
+	 *
+	 * @param classNames коллекция полных названий найденных классов.
+	 * @param classLoader загрузчик классов по умолчанию.
+	 * @throws NullPointerException если в качестве {@code classNames} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code classLoader} передан {@code null}.
+	 */
+	AnnotatedClasses(@NotNull final List<@NotNull String> classNames, @NotNull final ClassLoader classLoader)
+	{
+		Objects.requireNonNull(classNames);
+		Objects.requireNonNull(classLoader);
+
+		this.classNames = List.copyOf(classNames);
+		this.classLoader = classLoader;
+	}
+
+	/**
+	 * Возвращает полные названия найденных классов.
+	 *
+	 * @return коллекцию полных названий классов.
+	 */
+	@NotNull
+	public List<@NotNull String> getClassNames()
+	{
+		return this.classNames;
+	}
+
+	/**
+	 * Возвращает количество найденных классов.
+	 *
+	 * @return количество найденных классов.
+	 */
+	public int size()
+	{
+		return this.classNames.size();
+	}
+
+	/**
+	 * Загружает найденные классы загрузчиком классов по умолчанию.
+	 *
+	 * @return коллекцию загруженных классов.
+	 */
+	@NotNull
+	public List<@NotNull Class<?>> loadClasses()
+	{
+		return this.loadClasses(this.classLoader, false);
+	}
+
+	/**
+	 * Загружает найденные классы указанным загрузчиком классов.
+	 *
+	 * @param classLoader загрузчик классов.
+	 * @return коллекцию загруженных классов.
+	 * @throws NullPointerException если в качестве {@code classLoader} передан {@code null}.
+	 */
+	@NotNull
+	public List<@NotNull Class<?>> loadClasses(@NotNull final ClassLoader classLoader)
+	{
+		return this.loadClasses(classLoader, false);
+	}
+
+	/**
+	 * Загружает найденные классы указанным загрузчиком классов.
+	 * <p>
+	 * Классы загружаются без инициализации.
+	 * Параллельная загрузка выполняется только если загрузчик классов
+	 * зарегистрирован как поддерживающий параллельную загрузку,
+	 * иначе классы загружаются последовательно.
+	 *
+	 * @param classLoader загрузчик классов.
+	 * @param parallel параллельная загрузка.
+	 * @return коллекцию загруженных классов.
+	 * @throws NullPointerException если в качестве {@code classLoader} передан {@code null}.
+	 */
+	@NotNull
+	public List<@NotNull Class<?>> loadClasses(@NotNull final ClassLoader classLoader, final boolean parallel)
+	{
+		return this.loadClasses(classLoader, parallel, false);
+	}
+
+	/**
+	 * Загружает найденные классы указанным загрузчиком классов.
+	 * <p>
+	 * Параллельная загрузка выполняется только если загрузчик классов
+	 * зарегистрирован как поддерживающий параллельную загрузку,
+	 * иначе классы загружаются последовательно.
+	 *
+	 * @param classLoader загрузчик классов.
+	 * @param parallel параллельная загрузка.
+	 * @param initialize инициализация загруженных классов.
+	 * @return коллекцию загруженных классов.
+	 * @throws NullPointerException если в качестве {@code classLoader} передан {@code null}.
+	 */
+	@NotNull
+	public List<@NotNull Class<?>> loadClasses(@NotNull final ClassLoader classLoader,
+											   final boolean parallel,
+											   final boolean initialize)
+	{
+		Objects.requireNonNull(classLoader);
+
+		Stream<String> stream = this.classNames.stream();
+
+		if (parallel && classLoader.isRegisteredAsParallelCapable()) {
+			stream = stream.parallel();
+		}
+
+		return stream.<Class<?>>map(className -> loadClass(className, initialize, classLoader))
+					 .filter(Objects::nonNull)
+					 .toList();
+	}
+
+	/**
+	 * Загружает класс.
+	 *
+	 * @param className полное название класса.
+	 * @param initialize инициализация класса.
+	 * @param classLoader загрузчик классов.
+	 * @return загруженный класс или {@code null}, если класс не удалось загрузить.
+	 */
+	@Nullable
+	private static Class<?> loadClass(@NotNull final String className,
+									  final boolean initialize,
+									  @NotNull final ClassLoader classLoader)
+	{
+		try
+		{
+			return Class.forName(className, initialize, classLoader);
+		}
+		catch (ClassNotFoundException | LinkageError exception)
+		{
+			exception.printStackTrace();
+		}
+
+		return null;
+	}
+}
@@ -25,9 +25,11 @@
 package dev.kalenchukov.annotation.scanning;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
 import java.util.*;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -58,10 +60,50 @@ public class AnnotationScanner implements AnnotationScanning
 	private final Set<@NotNull String> pkgs;
 
 	/**
-	 * Коллекция найденных аннотированных классов.
+	 * Коллекция канонических путей просмотренных директорий.
 	 */
 	@NotNull
-	private final List<@NotNull Class<?>> annotatedClasses;
+	private final Set<@NotNull String> scannedDirectories;
+
+	/**
+	 * Загрузчик классов по умолчанию для найденных классов.
+	 */
+	@NotNull
+	private final ClassLoader classLoader;
+
+	/**
+	 * Коллекция просмотренных классов и их родительских классов.
+	 */
+	@NotNull
+	private final Map<@NotNull String, String> scannedClasses;
+
+	/**
+	 * Коллекция классов непосредственно содержащих искомую аннотацию.
+	 */
+	@NotNull
+	private final Set<@NotNull String> annotatedClassNames;
+
+	/**
+	 * Сбор статистики сканирования.
+	 */
+	private boolean profiling;
+
+	/**
+	 * Количество самых медленных файлов в отчёте о сканировании.
+	 */
+	private int slowestFilesLimit;
+
+	/**
+	 * Сборщик статистики текущего сканирования.
+	 */
+	@Nullable
+	private ScanProfiler profiler;
+
+	/**
+	 * Отчёт о последнем сканировании.
+	 */
+	@Nullable
+	private ScanProfile scanProfile;
 
 	/**
 	 * Локализованные тексты логирования.
@@ -69,6 +111,11 @@ public class AnnotationScanner implements AnnotationScanning
 	@NotNull
 	private ResourceBundle localeLogs;
 
+	/**
+	 * Количество самых медленных файлов в отчёте о сканировании по умолчанию.
+	 */
+	private static final int DEFAULT_SLOWEST_FILES_LIMIT = 10;
+
 	/**
 	 * Логгер для данного класса.
 	 */
@@ -80,10 +127,30 @@ public class AnnotationScanner implements AnnotationScanning
 	 */
 	public AnnotationScanner()
 	{
+		this(getDefaultRootDirectory());
+	}
+
+	/**
+	 * Конструктор для {@code AnnotationScanner}.
+	 *
+	 * @param rootDirectory корневая директория для поиска аннотированных классов.
+	 * @throws NullPointerException если в качестве {@code rootDirectory} передан {@code null}.
+	 */
+	AnnotationScanner(@NotNull final String rootDirectory)
+	{
+		Objects.requireNonNull(rootDirectory);
+
 		this.locale = new Locale("ru", "RU");
-		this.rootDirectory = this.getRootDirectory();
+		this.rootDirectory = rootDirectory.endsWith(File.separator) ? rootDirectory : rootDirectory + File.separator;
 		this.pkgs = new HashSet<>();
-		this.annotatedClasses = new ArrayList<>();
+		this.scannedDirectories = new HashSet<>();
+		this.classLoader = AnnotationScanner.class.getClassLoader();
+		this.scannedClasses = new LinkedHashMap<>();
+		this.annotatedClassNames = new HashSet<>();
+		this.profiling = false;
+		this.slowestFilesLimit = DEFAULT_SLOWEST_FILES_LIMIT;
+		this.profiler = null;
+		this.scanProfile = null;
 		this.localeLogs = ResourceBundle.getBundle(
 			"annotation/scanning/localizations/logs",
 			this.locale
@@ -142,6 +209,47 @@ public class AnnotationScanner implements AnnotationScanning
 		LOG.debug(this.localeLogs.getString("00002"));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param profiling {@inheritDoc}
+	 */
+	@Override
+	public void setProfiling(final boolean profiling)
+	{
+		this.setProfiling(profiling, DEFAULT_SLOWEST_FILES_LIMIT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param profiling {@inheritDoc}
+	 * @param slowestFilesLimit {@inheritDoc}
+	 * @throws IllegalArgumentException если {@code slowestFilesLimit} меньше нуля.
+	 */
+	@Override
+	public void setProfiling(final boolean profiling, final int slowestFilesLimit)
+	{
+		if (slowestFilesLimit < 0) {
+			throw new IllegalArgumentException();
+		}
+
+		this.profiling = profiling;
+		this.slowestFilesLimit = slowestFilesLimit;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@Nullable
+	@Override
+	public ScanProfile getScanProfile()
+	{
+		return this.scanProfile;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 *
@@ -155,23 +263,126 @@ public class AnnotationScanner implements AnnotationScanning
 	{
 		Objects.requireNonNull(annotationClass);
 
+		this.startProfiling();
+
+		// Классы инициализируются, как и при поиске через Class.forName(String)
+		List<Class<?>> classes = new ArrayList<>(
+			this.scan(annotationClass).loadClasses(this.classLoader, false, true)
+		);
+
+		if (this.profiler != null)
+		{
+			for (Class<?> objectClass : classes) {
+				this.profiler.recordLoadedClass(objectClass.getName());
+			}
+		}
+
+		this.finishProfiling();
+
+		return classes;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param annotationClass {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws NullPointerException если в качестве {@code annotationClass} передан {@code null}.
+	 */
+	@NotNull
+	@Override
+	public AnnotatedClasses findAnnotatedClassNames(@NotNull final Class<? extends Annotation> annotationClass)
+	{
+		Objects.requireNonNull(annotationClass);
+
+		this.startProfiling();
+
+		AnnotatedClasses annotatedClasses = this.scan(annotationClass);
+
+		this.finishProfiling();
+
+		return annotatedClasses;
+	}
+
+	/**
+	 * Выполняет поиск классов которые содержат указанную аннотацию без их загрузки.
+	 *
+	 * @param annotationClass аннотация которую необходимо искать в классах.
+	 * @return найденные классы, загружаемые по запросу.
+	 * @throws NullPointerException если в качестве {@code annotationClass} передан {@code null}.
+	 */
+	@NotNull
+	private AnnotatedClasses scan(@NotNull final Class<? extends Annotation> annotationClass)
+	{
+		Objects.requireNonNull(annotationClass);
+
 		LOG.debug(String.format(
 			this.localeLogs.getString("00008"),
 			this.rootDirectory
 		));
 
-		annotatedClasses.clear();
+		this.scannedDirectories.clear();
+		this.scannedClasses.clear();
+		this.annotatedClassNames.clear();
 
 		for (String pkg : this.pkgs) {
-			this.scanDirectory(this.packageToDirectory(pkg), annotationClass);
+			this.scanRoot(this.packageToDirectory(pkg), annotationClass);
 		}
 
 		// Сканирование корневой директории, если не добавлено ни одного пакета для сканирования
 		if (pkgs.size() == 0) {
-			this.scanDirectory(this.rootDirectory, annotationClass);
+			this.scanRoot(this.rootDirectory, annotationClass);
 		}
 
-		return annotatedClasses;
+		boolean inherited = annotationClass.isAnnotationPresent(Inherited.class);
+		Map<String, Boolean> resolved = new HashMap<>();
+		List<String> classNames = new ArrayList<>();
+
+		for (String className : this.scannedClasses.keySet())
+		{
+			if (this.annotatedClassNames.contains(className) ||
+				(inherited && this.isAnnotatedClass(className, annotationClass, resolved)))
+			{
+				classNames.add(className);
+
+				if (this.profiler != null) {
+					this.profiler.recordMatch(className);
+				}
+			}
+		}
+
+		this.scannedDirectories.clear();
+		this.scannedClasses.clear();
+		this.annotatedClassNames.clear();
+
+		return new AnnotatedClasses(classNames, this.classLoader);
+	}
+
+	/**
+	 * Сканирует корневую директорию сканирования на наличие файлов.
+	 *
+	 * @param directory директория.
+	 * @param annotationClass аннотация которую необходимо искать в классах.
+	 * @throws NullPointerException если в качестве {@code directory} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code annotationClass} передан {@code null}.
+	 */
+	private void scanRoot(@NotNull final String directory, @NotNull final Class<? extends Annotation> annotationClass)
+	{
+		Objects.requireNonNull(directory);
+		Objects.requireNonNull(annotationClass);
+
+		if (this.profiler == null)
+		{
+			this.scanDirectory(directory, annotationClass);
+
+			return;
+		}
+
+		long startTime = System.nanoTime();
+
+		this.profiler.startRoot(directory);
+		this.scanDirectory(directory, annotationClass);
+		this.profiler.finishRoot(System.nanoTime() - startTime);
 	}
 
 	/**
@@ -195,6 +406,18 @@ public class AnnotationScanner implements AnnotationScanning
 		try
 		{
 			File dir = new File(directory);
+
+			// Защита от циклических символьных ссылок и повторного сканирования вложенных пакетов
+			if (!this.scannedDirectories.add(dir.getCanonicalPath()))
+			{
+				LOG.debug(String.format(
+					this.localeLogs.getString("00009"),
+					directory
+				));
+
+				return;
+			}
+
 			File[] files = Objects.requireNonNull(dir.listFiles());
 
 			for (File file : files)
@@ -214,9 +437,20 @@ public class AnnotationScanner implements AnnotationScanning
 				if (file.isDirectory()) {
 					this.scanDirectory(file.getPath(), annotationClass);
 				}
-				else {
+				else if (this.profiler == null) {
 					this.checkFile(file.getPath(), annotationClass);
 				}
+				else {
+					long startTime = System.nanoTime();
+					long bytesRead = this.checkFile(file.getPath(), annotationClass);
+
+					this.profiler.recordFile(
+						this.directoryToPackage(directory),
+						file.getPath(),
+						System.nanoTime() - startTime,
+						bytesRead
+					);
+				}
 			}
 		}
 		catch (Exception exception)
@@ -230,10 +464,11 @@ public class AnnotationScanner implements AnnotationScanning
 	 *
 	 * @param path путь до файла.
 	 * @param annotationClass аннотация которую необходимо искать в классах.
+	 * @return количество прочитанных из файла байт.
 	 * @throws NullPointerException если в качестве {@code path} передан {@code null}.
 	 * @throws NullPointerException если в качестве {@code annotationClass} передан {@code null}.
 	 */
-	private void checkFile(@NotNull final String path, @NotNull final Class<? extends Annotation> annotationClass)
+	private long checkFile(@NotNull final String path, @NotNull final Class<? extends Annotation> annotationClass)
 	{
 		Objects.requireNonNull(path);
 		Objects.requireNonNull(annotationClass);
@@ -244,16 +479,26 @@ public class AnnotationScanner implements AnnotationScanning
 		));
 
 		if (!this.isCorrectFile(path)) {
-			return;
+			return 0;
 		}
 
-		try
+		CountingInputStream countingStream = null;
+
+		try (InputStream inputStream = new BufferedInputStream(
+			countingStream = new CountingInputStream(new FileInputStream(path))
+		))
 		{
-			Class<?> objectClass = Class.forName(this.directoryToPackage(path).replaceAll("\\.class$", ""));
+			ClassFileReader classFile = new ClassFileReader(inputStream);
+
+			this.scannedClasses.put(classFile.getClassName(), classFile.getSuperClassName());
+
+			if (this.profiler != null) {
+				this.profiler.recordClass(classFile.getClassName());
+			}
 
-			if (objectClass.isAnnotationPresent(annotationClass))
+			if (classFile.hasAnnotation(annotationClass.getName()))
 			{
-				annotatedClasses.add(objectClass);
+				this.annotatedClassNames.add(classFile.getClassName());
 
 				LOG.debug(String.format(
 					this.localeLogs.getString("00007"),
@@ -265,15 +510,71 @@ public class AnnotationScanner implements AnnotationScanning
 		{
 			exception.printStackTrace();
 		}
+
+		return countingStream == null ? 0 : countingStream.getCount();
+	}
+
+	/**
+	 * Проверяет наличие у класса унаследованной аннотации.
+	 * <p>
+	 * Родительские классы, которые не были просмотрены при сканировании,
+	 * загружаются без инициализации.
+	 *
+	 * @param className полное название класса.
+	 * @param annotationClass аннотация которую необходимо искать в классах.
+	 * @param resolved коллекция уже проверенных классов.
+	 * @return возвращает true, если класс содержит аннотацию, иначе false.
+	 */
+	private boolean isAnnotatedClass(@NotNull final String className,
+									 @NotNull final Class<? extends Annotation> annotationClass,
+									 @NotNull final Map<@NotNull String, @NotNull Boolean> resolved)
+	{
+		Boolean annotated = resolved.get(className);
+
+		if (annotated != null) {
+			return annotated;
+		}
+
+		if (this.annotatedClassNames.contains(className)) {
+			annotated = true;
+		}
+		else if (this.scannedClasses.containsKey(className))
+		{
+			String superClassName = this.scannedClasses.get(className);
+
+			// Защита от циклов при повреждённом байт-коде
+			resolved.put(className, false);
+
+			annotated = superClassName != null && this.isAnnotatedClass(superClassName, annotationClass, resolved);
+		}
+		else
+		{
+			try
+			{
+				annotated = Class.forName(className, false, this.classLoader).isAnnotationPresent(annotationClass);
+
+				if (this.profiler != null) {
+					this.profiler.recordLoadedClass(className);
+				}
+			}
+			catch (ClassNotFoundException | LinkageError exception)
+			{
+				annotated = false;
+			}
+		}
+
+		resolved.put(className, annotated);
+
+		return annotated;
 	}
 
 	/**
-	 * Возвращает корневую директорию.
+	 * Возвращает корневую директорию по умолчанию.
 	 *
 	 * @return корневая директория.
 	 */
 	@NotNull
-	private String getRootDirectory()
+	private static String getDefaultRootDirectory()
 	{
 		return System.getProperty("user.dir") +
 			File.separator + "target" +
@@ -312,6 +613,29 @@ public class AnnotationScanner implements AnnotationScanning
 						.replace(File.separator, ".");
 	}
 
+	/**
+	 * Начинает сбор статистики сканирования, если он включён.
+	 */
+	private void startProfiling()
+	{
+		this.profiler = this.profiling ? new ScanProfiler(this.slowestFilesLimit) : null;
+
+		// Отчёт предыдущего сканирования больше не относится к последнему сканированию
+		this.scanProfile = null;
+	}
+
+	/**
+	 * Завершает сбор статистики сканирования и формирует отчёт.
+	 */
+	private void finishProfiling()
+	{
+		if (this.profiler != null)
+		{
+			this.scanProfile = this.profiler.build();
+			this.profiler = null;
+		}
+	}
+
 	/**
 	 * Проверяет корректность файла.
 	 *
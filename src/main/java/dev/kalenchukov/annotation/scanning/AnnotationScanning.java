@@ -25,10 +25,12 @@
 package dev.kalenchukov.annotation.scanning;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
 import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
 
 /**
  * Интерфейс для реализации классов поиска аннотированных классов.
@@ -56,6 +58,42 @@ public interface AnnotationScanning
 	 */
 	void removePackages();
 
+	/**
+	 * Включает или выключает сбор статистики сканирования.
+	 *
+	 * @param profiling сбор статистики.
+	 * @throws UnsupportedOperationException если реализация не поддерживает сбор статистики.
+	 */
+	default void setProfiling(final boolean profiling)
+	{
+		this.setProfiling(profiling, 10);
+	}
+
+	/**
+	 * Включает или выключает сбор статистики сканирования.
+	 * <p>
+	 * Реализация по умолчанию не поддерживает сбор статистики.
+	 *
+	 * @param profiling сбор статистики.
+	 * @param slowestFilesLimit количество самых медленных файлов в отчёте.
+	 * @throws UnsupportedOperationException если реализация не поддерживает сбор статистики.
+	 */
+	default void setProfiling(final boolean profiling, final int slowestFilesLimit)
+	{
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Возвращает отчёт о последнем сканировании.
+	 *
+	 * @return отчёт о последнем сканировании или {@code null}, если сбор статистики не выполнялся.
+	 */
+	@Nullable
+	default ScanProfile getScanProfile()
+	{
+		return null;
+	}
+
 	/**
 	 * Выполняет поиск классов которые содержат указанную аннотацию.
 	 *
@@ -64,4 +102,29 @@ public interface AnnotationScanning
 	 */
 	@NotNull
 	List<@NotNull Class<?>> findAnnotatedClasses(@NotNull Class<? extends Annotation> annotationClass);
+
+	/**
+	 * Выполняет поиск классов которые содержат указанную аннотацию без их загрузки.
+	 * <p>
+	 * Реализация по умолчанию загружает классы через {@link #findAnnotatedClasses(Class)}
+	 * и возвращает их названия.
+	 *
+	 * @param annotationClass аннотация которую необходимо искать в классах.
+	 * @return найденные классы, загружаемые по запросу.
+	 * @throws NullPointerException если в качестве {@code annotationClass} передан {@code null}.
+	 */
+	@NotNull
+	default AnnotatedClasses findAnnotatedClassNames(@NotNull final Class<? extends Annotation> annotationClass)
+	{
+		Objects.requireNonNull(annotationClass);
+
+		List<String> classNames = this.findAnnotatedClasses(annotationClass).stream()
+			.map(Class::getName)
+			.toList();
+
+		return new AnnotatedClasses(
+			classNames,
+			Objects.requireNonNullElse(this.getClass().getClassLoader(), ClassLoader.getSystemClassLoader())
+		);
+	}
 }
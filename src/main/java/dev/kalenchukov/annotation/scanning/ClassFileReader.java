@@ -0,0 +1,281 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Класс для чтения сведений о классе из байт-кода без его загрузки.
+ *
+ * @author Алексей Каленчуков
+ */
+final class ClassFileReader
+{
+	/**
+	 * Сигнатура файла класса.
+	 */
+	private static final int MAGIC = 0xCAFEBABE;
+
+	/**
+	 * Название атрибута с аннотациями, доступными во время выполнения.
+	 */
+	@NotNull
+	private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+	/**
+	 * Полное название класса.
+	 */
+	@NotNull
+	private final String className;
+
+	/**
+	 * Полное название родительского класса.
+	 */
+	@Nullable
+	private final String superClassName;
+
+	/**
+	 * Коллекция полных названий аннотаций класса, доступных во время выполнения.
+	 */
+	@NotNull
+	private final Set<@NotNull String> annotations;
+
+	/**
+	 * Конструктор для {@code ClassFileReader}.
+	 *
+	 * @param inputStream поток байт-кода класса.
+	 * @throws IOException если байт-код не удалось прочитать.
+	 * @throws NullPointerException если в качестве {@code inputStream} передан {@code null}.
+	 */
+	ClassFileReader(@NotNull final InputStream inputStream)
+		throws IOException
+	{
+		Objects.requireNonNull(inputStream);
+
+		DataInputStream input = new DataInputStream(inputStream);
+
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+
+		// Версия файла класса
+		input.skipNBytes(4);
+
+		int constantPoolCount = input.readUnsignedShort();
+		String[] utf8 = new String[constantPoolCount];
+		int[] classes = new int[constantPoolCount];
+
+		for (int index = 1; index < constantPoolCount; index++)
+		{
+			int tag = input.readUnsignedByte();
+
+			switch (tag)
+			{
+				case 1 -> utf8[index] = input.readUTF();
+				case 7 -> classes[index] = input.readUnsignedShort();
+				case 8, 16, 19, 20 -> input.skipNBytes(2);
+				case 15 -> input.skipNBytes(3);
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> input.skipNBytes(4);
+				case 5, 6 -> {
+					input.skipNBytes(8);
+					index++;
+				}
+				default -> throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+
+		// Модификаторы доступа
+		input.skipNBytes(2);
+
+		this.className = toBinaryName(utf8[classes[input.readUnsignedShort()]]);
+
+		int superClassIndex = input.readUnsignedShort();
+		this.superClassName = superClassIndex == 0 ? null : toBinaryName(utf8[classes[superClassIndex]]);
+
+		input.skipNBytes(2L * input.readUnsignedShort());
+
+		// Поля и методы
+		for (int member = 0; member < 2; member++)
+		{
+			int membersCount = input.readUnsignedShort();
+
+			for (int index = 0; index < membersCount; index++)
+			{
+				input.skipNBytes(6);
+				skipAttributes(input);
+			}
+		}
+
+		Set<String> foundAnnotations = new HashSet<>();
+		int attributesCount = input.readUnsignedShort();
+
+		for (int index = 0; index < attributesCount; index++)
+		{
+			String attributeName = utf8[input.readUnsignedShort()];
+			long attributeLength = Integer.toUnsignedLong(input.readInt());
+
+			if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName))
+			{
+				input.skipNBytes(attributeLength);
+				continue;
+			}
+
+			int annotationsCount = input.readUnsignedShort();
+
+			for (int annotation = 0; annotation < annotationsCount; annotation++) {
+				foundAnnotations.add(readAnnotation(input, utf8));
+			}
+		}
+
+		this.annotations = Collections.unmodifiableSet(foundAnnotations);
+	}
+
+	/**
+	 * Возвращает полное название класса.
+	 *
+	 * @return полное название класса.
+	 */
+	@NotNull
+	String getClassName()
+	{
+		return this.className;
+	}
+
+	/**
+	 * Возвращает полное название родительского класса.
+	 *
+	 * @return полное название родительского класса или {@code null}, если класс не имеет родителя.
+	 */
+	@Nullable
+	String getSuperClassName()
+	{
+		return this.superClassName;
+	}
+
+	/**
+	 * Проверяет наличие аннотации у класса.
+	 *
+	 * @param annotationName полное название аннотации.
+	 * @return возвращает true, если класс содержит аннотацию, иначе false.
+	 * @throws NullPointerException если в качестве {@code annotationName} передан {@code null}.
+	 */
+	boolean hasAnnotation(@NotNull final String annotationName)
+	{
+		Objects.requireNonNull(annotationName);
+
+		return this.annotations.contains(annotationName);
+	}
+
+	/**
+	 * Пропускает атрибуты поля или метода.
+	 *
+	 * @param input поток байт-кода класса.
+	 * @throws IOException если байт-код не удалось прочитать.
+	 */
+	private static void skipAttributes(@NotNull final DataInputStream input)
+		throws IOException
+	{
+		int attributesCount = input.readUnsignedShort();
+
+		for (int index = 0; index < attributesCount; index++)
+		{
+			input.skipNBytes(2);
+			input.skipNBytes(Integer.toUnsignedLong(input.readInt()));
+		}
+	}
+
+	/**
+	 * Читает аннотацию и возвращает её полное название.
+	 *
+	 * @param input поток байт-кода класса.
+	 * @param utf8 строковые константы класса.
+	 * @return полное название аннотации.
+	 * @throws IOException если байт-код не удалось прочитать.
+	 */
+	@NotNull
+	private static String readAnnotation(@NotNull final DataInputStream input, @Nullable final String @NotNull [] utf8)
+		throws IOException
+	{
+		String descriptor = utf8[input.readUnsignedShort()];
+		int pairsCount = input.readUnsignedShort();
+
+		for (int index = 0; index < pairsCount; index++)
+		{
+			input.skipNBytes(2);
+			skipElementValue(input, utf8);
+		}
+
+		return toBinaryName(descriptor.substring(1, descriptor.length() - 1));
+	}
+
+	/**
+	 * Пропускает значение элемента аннотации.
+	 *
+	 * @param input поток байт-кода класса.
+	 * @param utf8 строковые константы класса.
+	 * @throws IOException если байт-код не удалось прочитать.
+	 */
+	private static void skipElementValue(@NotNull final DataInputStream input, @Nullable final String @NotNull [] utf8)
+		throws IOException
+	{
+		int tag = input.readUnsignedByte();
+
+		switch (tag)
+		{
+			case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> input.skipNBytes(2);
+			case 'e' -> input.skipNBytes(4);
+			case '@' -> readAnnotation(input, utf8);
+			case '[' -> {
+				int valuesCount = input.readUnsignedShort();
+
+				for (int index = 0; index < valuesCount; index++) {
+					skipElementValue(input, utf8);
+				}
+			}
+			default -> throw new IOException("Unknown element value tag " + tag);
+		}
+	}
+
+	/**
+	 * Преобразовывает внутреннее название класса в полное.
+	 *
+	 * @param internalName внутреннее название класса.
+	 * @return полное название класса.
+	 */
+	@NotNull
+	private static String toBinaryName(@NotNull final String internalName)
+	{
+		return internalName.replace('/', '.');
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Класс потока, подсчитывающего количество прочитанных байт.
+ *
+ * @author Алексей Каленчуков
+ */
+final class CountingInputStream extends FilterInputStream
+{
+	/**
+	 * Количество прочитанных байт.
+	 */
+	private long count;
+
+	/**
+	 * Конструктор для {@code CountingInputStream}.
+	 *
+	 * @param inputStream поток.
+	 */
+	CountingInputStream(@NotNull final InputStream inputStream)
+	{
+		super(inputStream);
+
+		this.count = 0;
+	}
+
+	/**
+	 * Возвращает количество прочитанных байт.
+	 *
+	 * @return количество прочитанных байт.
+	 */
+	long getCount()
+	{
+		return this.count;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public int read()
+		throws IOException
+	{
+		int value = super.read();
+
+		if (value >= 0) {
+			this.count++;
+		}
+
+		return value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param buffer {@inheritDoc}
+	 * @param offset {@inheritDoc}
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public int read(final byte @NotNull [] buffer, final int offset, final int length)
+		throws IOException
+	{
+		int read = super.read(buffer, offset, length);
+
+		if (read > 0) {
+			this.count += read;
+		}
+
+		return read;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @param length {@inheritDoc}
+	 * @return {@inheritDoc}
+	 * @throws IOException {@inheritDoc}
+	 */
+	@Override
+	public long skip(final long length)
+		throws IOException
+	{
+		long skipped = super.skip(length);
+
+		this.count += skipped;
+
+		return skipped;
+	}
+}
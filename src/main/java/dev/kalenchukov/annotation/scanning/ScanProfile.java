@@ -0,0 +1,466 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Класс отчёта о затратах сканирования.
+ * <p>
+ * Содержит общую статистику, статистику по каждой корневой директории сканирования,
+ * по каждому пакету и список самых медленных файлов.
+ *
+ * @author Алексей Каленчуков
+ */
+public final class ScanProfile
+{
+	/**
+	 * Общая статистика сканирования.
+	 */
+	@NotNull
+	private final Statistics total;
+
+	/**
+	 * Статистика по корневым директориям сканирования.
+	 */
+	@NotNull
+	private final List<@NotNull Statistics> roots;
+
+	/**
+	 * Статистика по пакетам.
+	 */
+	@NotNull
+	private final List<@NotNull Statistics> packages;
+
+	/**
+	 * Самые медленные файлы.
+	 */
+	@NotNull
+	private final List<@NotNull FileStatistics> slowestFiles;
+
+	/**
+	 * Конструктор для {@code ScanProfile}.
+	 *
+	 * @param total общая статистика сканирования.
+	 * @param roots статистика по корневым директориям сканирования.
+	 * @param packages статистика по пакетам.
+	 * @param slowestFiles самые медленные файлы.
+	 * @throws NullPointerException если в качестве {@code total} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code roots} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code packages} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code slowestFiles} передан {@code null}.
+	 */
+	ScanProfile(@NotNull final Statistics total,
+				@NotNull final List<@NotNull Statistics> roots,
+				@NotNull final List<@NotNull Statistics> packages,
+				@NotNull final List<@NotNull FileStatistics> slowestFiles)
+	{
+		Objects.requireNonNull(total);
+		Objects.requireNonNull(roots);
+		Objects.requireNonNull(packages);
+		Objects.requireNonNull(slowestFiles);
+
+		this.total = total;
+		this.roots = List.copyOf(roots);
+		this.packages = List.copyOf(packages);
+		this.slowestFiles = List.copyOf(slowestFiles);
+	}
+
+	/**
+	 * Возвращает общую статистику сканирования.
+	 *
+	 * @return общая статистика сканирования.
+	 */
+	@NotNull
+	public Statistics getTotal()
+	{
+		return this.total;
+	}
+
+	/**
+	 * Возвращает статистику по корневым директориям сканирования.
+	 *
+	 * @return коллекцию статистики в порядке сканирования.
+	 */
+	@NotNull
+	public List<@NotNull Statistics> getRoots()
+	{
+		return this.roots;
+	}
+
+	/**
+	 * Возвращает статистику по пакетам.
+	 *
+	 * @return коллекцию статистики, упорядоченную по убыванию времени.
+	 */
+	@NotNull
+	public List<@NotNull Statistics> getPackages()
+	{
+		return this.packages;
+	}
+
+	/**
+	 * Возвращает самые медленные файлы.
+	 *
+	 * @return коллекцию файлов, упорядоченную по убыванию времени.
+	 */
+	@NotNull
+	public List<@NotNull FileStatistics> getSlowestFiles()
+	{
+		return this.slowestFiles;
+	}
+
+	/**
+	 * Возвращает отчёт в формате JSON.
+	 *
+	 * @return отчёт в формате JSON.
+	 */
+	@NotNull
+	public String toJson()
+	{
+		StringBuilder json = new StringBuilder();
+
+		json.append("{\"total\":");
+		this.total.appendJson(json);
+
+		json.append(",\"roots\":[");
+		for (int index = 0; index < this.roots.size(); index++)
+		{
+			if (index > 0) {
+				json.append(',');
+			}
+
+			this.roots.get(index).appendJson(json);
+		}
+
+		json.append("],\"packages\":[");
+		for (int index = 0; index < this.packages.size(); index++)
+		{
+			if (index > 0) {
+				json.append(',');
+			}
+
+			this.packages.get(index).appendJson(json);
+		}
+
+		json.append("],\"slowestFiles\":[");
+		for (int index = 0; index < this.slowestFiles.size(); index++)
+		{
+			if (index > 0) {
+				json.append(',');
+			}
+
+			this.slowestFiles.get(index).appendJson(json);
+		}
+
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @return {@inheritDoc}
+	 */
+	@NotNull
+	@Override
+	public String toString()
+	{
+		return this.toJson();
+	}
+
+	/**
+	 * Добавляет строку в формате JSON.
+	 *
+	 * @param json JSON.
+	 * @param value строка.
+	 */
+	private static void appendJsonString(@NotNull final StringBuilder json, @NotNull final String value)
+	{
+		json.append('"');
+
+		for (int index = 0; index < value.length(); index++)
+		{
+			char symbol = value.charAt(index);
+
+			switch (symbol)
+			{
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\n' -> json.append("\\n");
+				case '\r' -> json.append("\\r");
+				case '\t' -> json.append("\\t");
+				default -> {
+					if (symbol < 0x20) {
+						json.append(String.format("\\u%04x", (int) symbol));
+					}
+					else {
+						json.append(symbol);
+					}
+				}
+			}
+		}
+
+		json.append('"');
+	}
+
+	/**
+	 * Класс статистики сканирования корневой директории, пакета или всего сканирования.
+	 */
+	public static final class Statistics
+	{
+		/**
+		 * Название корневой директории или пакета.
+		 */
+		@NotNull
+		private final String name;
+
+		/**
+		 * Время сканирования.
+		 */
+		@NotNull
+		private final Duration duration;
+
+		/**
+		 * Количество просмотренных файлов.
+		 */
+		private final long files;
+
+		/**
+		 * Количество прочитанных байт.
+		 */
+		private final long bytesRead;
+
+		/**
+		 * Количество загруженных классов.
+		 */
+		private final long classesLoaded;
+
+		/**
+		 * Количество найденных аннотированных классов.
+		 */
+		private final long matches;
+
+		/**
+		 * Конструктор для {@code Statistics}.
+		 *
+		 * @param name название корневой директории или пакета.
+		 * @param duration время сканирования.
+		 * @param files количество просмотренных файлов.
+		 * @param bytesRead количество прочитанных байт.
+		 * @param classesLoaded количество загруженных классов.
+		 * @param matches количество найденных аннотированных классов.
+		 * @throws NullPointerException если в качестве {@code name} передан {@code null}.
+		 * @throws NullPointerException если в качестве {@code duration} передан {@code null}.
+		 */
+		Statistics(@NotNull final String name,
+				   @NotNull final Duration duration,
+				   final long files,
+				   final long bytesRead,
+				   final long classesLoaded,
+				   final long matches)
+		{
+			Objects.requireNonNull(name);
+			Objects.requireNonNull(duration);
+
+			this.name = name;
+			this.duration = duration;
+			this.files = files;
+			this.bytesRead = bytesRead;
+			this.classesLoaded = classesLoaded;
+			this.matches = matches;
+		}
+
+		/**
+		 * Возвращает название корневой директории или пакета.
+		 *
+		 * @return название корневой директории или пакета.
+		 */
+		@NotNull
+		public String getName()
+		{
+			return this.name;
+		}
+
+		/**
+		 * Возвращает время сканирования.
+		 *
+		 * @return время сканирования.
+		 */
+		@NotNull
+		public Duration getDuration()
+		{
+			return this.duration;
+		}
+
+		/**
+		 * Возвращает количество просмотренных файлов.
+		 *
+		 * @return количество просмотренных файлов.
+		 */
+		public long getFiles()
+		{
+			return this.files;
+		}
+
+		/**
+		 * Возвращает количество прочитанных байт.
+		 *
+		 * @return количество прочитанных байт.
+		 */
+		public long getBytesRead()
+		{
+			return this.bytesRead;
+		}
+
+		/**
+		 * Возвращает количество загруженных классов.
+		 *
+		 * @return количество загруженных классов.
+		 */
+		public long getClassesLoaded()
+		{
+			return this.classesLoaded;
+		}
+
+		/**
+		 * Возвращает количество найденных аннотированных классов.
+		 *
+		 * @return количество найденных аннотированных классов.
+		 */
+		public long getMatches()
+		{
+			return this.matches;
+		}
+
+		/**
+		 * Добавляет статистику в формате JSON.
+		 *
+		 * @param json JSON.
+		 */
+		private void appendJson(@NotNull final StringBuilder json)
+		{
+			json.append("{\"name\":");
+			appendJsonString(json, this.name);
+			json.append(",\"durationNanos\":").append(this.duration.toNanos())
+				.append(",\"files\":").append(this.files)
+				.append(",\"bytesRead\":").append(this.bytesRead)
+				.append(",\"classesLoaded\":").append(this.classesLoaded)
+				.append(",\"matches\":").append(this.matches)
+				.append('}');
+		}
+	}
+
+	/**
+	 * Класс статистики сканирования файла.
+	 */
+	public static final class FileStatistics
+	{
+		/**
+		 * Путь до файла.
+		 */
+		@NotNull
+		private final String path;
+
+		/**
+		 * Время сканирования.
+		 */
+		@NotNull
+		private final Duration duration;
+
+		/**
+		 * Количество прочитанных байт.
+		 */
+		private final long bytesRead;
+
+		/**
+		 * Конструктор для {@code FileStatistics}.
+		 *
+		 * @param path путь до файла.
+		 * @param duration время сканирования.
+		 * @param bytesRead количество прочитанных байт.
+		 * @throws NullPointerException если в качестве {@code path} передан {@code null}.
+		 * @throws NullPointerException если в качестве {@code duration} передан {@code null}.
+		 */
+		FileStatistics(@NotNull final String path, @NotNull final Duration duration, final long bytesRead)
+		{
+			Objects.requireNonNull(path);
+			Objects.requireNonNull(duration);
+
+			this.path = path;
+			this.duration = duration;
+			this.bytesRead = bytesRead;
+		}
+
+		/**
+		 * Возвращает путь до файла.
+		 *
+		 * @return путь до файла.
+		 */
+		@NotNull
+		public String getPath()
+		{
+			return this.path;
+		}
+
+		/**
+		 * Возвращает время сканирования.
+		 *
+		 * @return время сканирования.
+		 */
+		@NotNull
+		public Duration getDuration()
+		{
+			return this.duration;
+		}
+
+		/**
+		 * Возвращает количество прочитанных байт.
+		 *
+		 * @return количество прочитанных байт.
+		 */
+		public long getBytesRead()
+		{
+			return this.bytesRead;
+		}
+
+		/**
+		 * Добавляет статистику в формате JSON.
+		 *
+		 * @param json JSON.
+		 */
+		private void appendJson(@NotNull final StringBuilder json)
+		{
+			json.append("{\"path\":");
+			appendJsonString(json, this.path);
+			json.append(",\"durationNanos\":").append(this.duration.toNanos())
+				.append(",\"bytesRead\":").append(this.bytesRead)
+				.append('}');
+		}
+	}
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Класс сбора статистики сканирования для {@link ScanProfile}.
+ *
+ * @author Алексей Каленчуков
+ */
+final class ScanProfiler
+{
+	/**
+	 * Количество самых медленных файлов в отчёте.
+	 */
+	private final int slowestFilesLimit;
+
+	/**
+	 * Время начала сканирования.
+	 */
+	private final long startTime;
+
+	/**
+	 * Счётчики по корневым директориям сканирования.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull Counter> roots;
+
+	/**
+	 * Счётчики по пакетам.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull Counter> packages;
+
+	/**
+	 * Корневые директории сканирования просмотренных классов.
+	 */
+	@NotNull
+	private final Map<@NotNull String, @NotNull Counter> classRoots;
+
+	/**
+	 * Самые медленные файлы, упорядоченные по возрастанию времени.
+	 */
+	@NotNull
+	private final PriorityQueue<ScanProfile.@NotNull FileStatistics> slowestFiles;
+
+	/**
+	 * Общий счётчик.
+	 */
+	@NotNull
+	private final Counter total;
+
+	/**
+	 * Счётчик текущей корневой директории сканирования.
+	 */
+	@Nullable
+	private Counter currentRoot;
+
+	/**
+	 * Конструктор для {@code ScanProfiler}.
+	 *
+	 * @param slowestFilesLimit количество самых медленных файлов в отчёте.
+	 */
+	ScanProfiler(final int slowestFilesLimit)
+	{
+		this.slowestFilesLimit = slowestFilesLimit;
+		this.startTime = System.nanoTime();
+		this.roots = new LinkedHashMap<>();
+		this.packages = new HashMap<>();
+		this.classRoots = new HashMap<>();
+		this.slowestFiles = new PriorityQueue<>(Comparator.comparing(ScanProfile.FileStatistics::getDuration));
+		this.total = new Counter("");
+		this.currentRoot = null;
+	}
+
+	/**
+	 * Начинает сканирование корневой директории.
+	 *
+	 * @param root корневая директория сканирования.
+	 * @throws NullPointerException если в качестве {@code root} передан {@code null}.
+	 */
+	void startRoot(@NotNull final String root)
+	{
+		Objects.requireNonNull(root);
+
+		this.currentRoot = this.roots.computeIfAbsent(root, Counter::new);
+	}
+
+	/**
+	 * Завершает сканирование корневой директории.
+	 *
+	 * @param duration время сканирования корневой директории в наносекундах.
+	 */
+	void finishRoot(final long duration)
+	{
+		if (this.currentRoot != null) {
+			this.currentRoot.duration += duration;
+		}
+
+		this.currentRoot = null;
+	}
+
+	/**
+	 * Учитывает просмотренный файл.
+	 *
+	 * @param pkg пакет файла.
+	 * @param path путь до файла.
+	 * @param duration время сканирования файла в наносекундах.
+	 * @param bytesRead количество прочитанных байт.
+	 * @throws NullPointerException если в качестве {@code pkg} передан {@code null}.
+	 * @throws NullPointerException если в качестве {@code path} передан {@code null}.
+	 */
+	void recordFile(@NotNull final String pkg,
+					@NotNull final String path,
+					final long duration,
+					final long bytesRead)
+	{
+		Objects.requireNonNull(pkg);
+		Objects.requireNonNull(path);
+
+		Counter packageCounter = this.packages.computeIfAbsent(pkg, Counter::new);
+		packageCounter.duration += duration;
+		packageCounter.addFile(bytesRead);
+		this.total.addFile(bytesRead);
+
+		if (this.currentRoot != null) {
+			this.currentRoot.addFile(bytesRead);
+		}
+
+		if (this.slowestFilesLimit <= 0) {
+			return;
+		}
+
+		this.slowestFiles.add(new ScanProfile.FileStatistics(path, Duration.ofNanos(duration), bytesRead));
+
+		if (this.slowestFiles.size() > this.slowestFilesLimit) {
+			this.slowestFiles.poll();
+		}
+	}
+
+	/**
+	 * Учитывает прочитанный класс.
+	 *
+	 * @param className полное название класса.
+	 * @throws NullPointerException если в качестве {@code className} передан {@code null}.
+	 */
+	void recordClass(@NotNull final String className)
+	{
+		Objects.requireNonNull(className);
+
+		if (this.currentRoot != null) {
+			this.classRoots.put(className, this.currentRoot);
+		}
+	}
+
+	/**
+	 * Учитывает загруженный класс.
+	 *
+	 * @param className полное название класса.
+	 * @throws NullPointerException если в качестве {@code className} передан {@code null}.
+	 */
+	void recordLoadedClass(@NotNull final String className)
+	{
+		Objects.requireNonNull(className);
+
+		this.packages.computeIfAbsent(classNameToPackage(className), Counter::new).classesLoaded++;
+		this.total.classesLoaded++;
+
+		Counter root = this.classRoots.get(className);
+
+		if (root != null) {
+			root.classesLoaded++;
+		}
+	}
+
+	/**
+	 * Учитывает найденный аннотированный класс.
+	 *
+	 * @param className полное название класса.
+	 * @throws NullPointerException если в качестве {@code className} передан {@code null}.
+	 */
+	void recordMatch(@NotNull final String className)
+	{
+		Objects.requireNonNull(className);
+
+		this.packages.computeIfAbsent(classNameToPackage(className), Counter::new).matches++;
+		this.total.matches++;
+
+		Counter root = this.classRoots.get(className);
+
+		if (root != null) {
+			root.matches++;
+		}
+	}
+
+	/**
+	 * Формирует отчёт о сканировании.
+	 *
+	 * @return отчёт о сканировании.
+	 */
+	@NotNull
+	ScanProfile build()
+	{
+		this.total.duration = System.nanoTime() - this.startTime;
+
+		List<ScanProfile.Statistics> packageStatistics = new ArrayList<>();
+
+		for (Counter counter : this.packages.values()) {
+			packageStatistics.add(counter.toStatistics());
+		}
+
+		packageStatistics.sort(Comparator.comparing(ScanProfile.Statistics::getDuration).reversed());
+
+		List<ScanProfile.Statistics> rootStatistics = new ArrayList<>();
+
+		for (Counter counter : this.roots.values()) {
+			rootStatistics.add(counter.toStatistics());
+		}
+
+		List<ScanProfile.FileStatistics> files = new ArrayList<>(this.slowestFiles);
+		files.sort(Comparator.comparing(ScanProfile.FileStatistics::getDuration).reversed());
+
+		return new ScanProfile(this.total.toStatistics(), rootStatistics, packageStatistics, files);
+	}
+
+	/**
+	 * Возвращает пакет класса.
+	 *
+	 * @param className полное название класса.
+	 * @return пакет класса.
+	 */
+	@NotNull
+	private static String classNameToPackage(@NotNull final String className)
+	{
+		int index = className.lastIndexOf('.');
+
+		return index < 0 ? "" : className.substring(0, index);
+	}
+
+	/**
+	 * Класс изменяемого счётчика статистики.
+	 */
+	private static final class Counter
+	{
+		/**
+		 * Название корневой директории или пакета.
+		 */
+		@NotNull
+		private final String name;
+
+		/**
+		 * Время сканирования в наносекундах.
+		 */
+		private long duration;
+
+		/**
+		 * Количество просмотренных файлов.
+		 */
+		private long files;
+
+		/**
+		 * Количество прочитанных байт.
+		 */
+		private long bytesRead;
+
+		/**
+		 * Количество загруженных классов.
+		 */
+		private long classesLoaded;
+
+		/**
+		 * Количество найденных аннотированных классов.
+		 */
+		private long matches;
+
+		/**
+		 * Конструктор для {@code Counter}.
+		 *
+		 * @param name название корневой директории или пакета.
+		 */
+		private Counter(@NotNull final String name)
+		{
+			this.name = name;
+		}
+
+		/**
+		 * Учитывает просмотренный файл.
+		 *
+		 * @param bytesRead количество прочитанных байт.
+		 */
+		private void addFile(final long bytesRead)
+		{
+			this.files++;
+			this.bytesRead += bytesRead;
+		}
+
+		/**
+		 * Возвращает неизменяемую статистику.
+		 *
+		 * @return статистика.
+		 */
+		@NotNull
+		private ScanProfile.Statistics toStatistics()
+		{
+			return new ScanProfile.Statistics(
+				this.name,
+				Duration.ofNanos(this.duration),
+				this.files,
+				this.bytesRead,
+				this.classesLoaded,
+				this.matches
+			);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning.test.values;
+
+import dev.kalenchukov.annotation.scanning.test.annotations.MyAnnotation;
+import dev.kalenchukov.annotation.scanning.test.annotations.MyInheritedAnnotation;
+import dev.kalenchukov.annotation.scanning.test.annotations.MyValuesAnnotation;
+
+import java.lang.annotation.ElementType;
+
+@MyValuesAnnotation(
+	number = 1234567890123L,
+	fraction = 1.5,
+	text = "text",
+	type = String.class,
+	kind = ElementType.TYPE,
+	nested = @MyAnnotation,
+	texts = {"first", "second"},
+	nestedArray = {@MyAnnotation, @MyAnnotation}
+)
+@MyInheritedAnnotation
+public class Values
+{
+	public static final long LONG_CONSTANT = 9876543210L;
+
+	public static final double DOUBLE_CONSTANT = 2.75;
+
+	public long longField = 1234567890987L;
+
+	public double doubleField = 3.25;
+}
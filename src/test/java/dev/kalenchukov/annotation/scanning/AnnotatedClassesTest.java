@@ -0,0 +1,109 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import dev.kalenchukov.annotation.scanning.test.annotations.MyInheritedAnnotation;
+import dev.kalenchukov.annotation.scanning.test.initialization.Initializations;
+import dev.kalenchukov.annotation.scanning.test.packages.films.Film;
+import dev.kalenchukov.annotation.scanning.test.packages.musics.Music;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link AnnotatedClasses}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class AnnotatedClassesTest
+{
+	/**
+	 * Проверка метода {@link AnnotatedClasses#loadClasses(ClassLoader)}.
+	 */
+	@Test
+	public void loadClasses()
+	{
+		AnnotatedClasses annotatedClasses = new AnnotatedClasses(
+			List.of(Film.class.getName(), Music.class.getName()),
+			AnnotatedClassesTest.class.getClassLoader()
+		);
+
+		List<Class<?>> actualClasses = annotatedClasses.loadClasses(AnnotatedClassesTest.class.getClassLoader());
+
+		assertThat(actualClasses).containsExactly(Film.class, Music.class);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotatedClasses#loadClasses(ClassLoader, boolean)} с параллельной загрузкой.
+	 */
+	@Test
+	public void loadClassesParallel()
+	{
+		AnnotatedClasses annotatedClasses = new AnnotatedClasses(
+			List.of(Film.class.getName(), Music.class.getName()),
+			AnnotatedClassesTest.class.getClassLoader()
+		);
+
+		List<Class<?>> actualClasses = annotatedClasses.loadClasses(AnnotatedClassesTest.class.getClassLoader(), true);
+
+		assertThat(actualClasses).containsExactly(Film.class, Music.class);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotatedClasses#loadClasses()} без инициализации классов.
+	 */
+	@Test
+	public void loadClassesNotInitialized()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.initialization.lazy");
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyInheritedAnnotation.class);
+
+		List<Class<?>> actualClasses = annotatedClasses.loadClasses();
+
+		assertThat(actualClasses).extracting(Class::getName).containsExactly(
+			"dev.kalenchukov.annotation.scanning.test.initialization.lazy.Lazy"
+		);
+		assertThat(Initializations.isInitialized(actualClasses.get(0).getName())).isFalse();
+	}
+
+	/**
+	 * Проверка метода {@link AnnotatedClasses#loadClasses()} с отсутствующим классом.
+	 */
+	@Test
+	public void loadClassesNotFound()
+	{
+		AnnotatedClasses annotatedClasses = new AnnotatedClasses(
+			List.of(Film.class.getName(), "dev.kalenchukov.annotation.scanning.NotFound"),
+			AnnotatedClassesTest.class.getClassLoader()
+		);
+
+		List<Class<?>> actualClasses = annotatedClasses.loadClasses();
+
+		assertThat(actualClasses).containsExactly(Film.class);
+	}
+}
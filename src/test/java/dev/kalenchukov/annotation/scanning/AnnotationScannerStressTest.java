@@ -0,0 +1,403 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import dev.kalenchukov.annotation.scanning.test.annotations.MyAnnotation;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Класс нагрузочной проверки методов класса {@link AnnotationScanner}.
+ * <p>
+ * Дерево классов генерируется во время выполнения теста.
+ * Количество классов задаётся свойством {@code annotation.scanning.stress.classes}.
+ * Проверки не выполняются при обычной сборке и запускаются профилем {@code stress}:
+ * {@code mvn test -Pstress}.
+ *
+ * @author Алексей Каленчуков
+ */
+@Tag("stress")
+public class AnnotationScannerStressTest
+{
+	/**
+	 * Количество классов в большом дереве.
+	 */
+	private static final int CLASSES = Integer.getInteger("annotation.scanning.stress.classes", 300_000);
+
+	/**
+	 * Количество классов в одном пакете большого дерева.
+	 */
+	private static final int CLASSES_PER_PACKAGE = 500;
+
+	/**
+	 * Каждый какой класс содержит аннотацию.
+	 */
+	private static final int ANNOTATED_EVERY = 10;
+
+	/**
+	 * Максимальное время сканирования одного класса в наносекундах.
+	 */
+	private static final long MAX_NANOS_PER_CLASS = 200_000;
+
+	/**
+	 * Максимальный объём памяти, выделяемой при сканировании одного класса, в байтах.
+	 */
+	private static final long MAX_BYTES_PER_CLASS = 32 * 1024;
+
+	/**
+	 * Внутреннее название аннотации.
+	 */
+	private static final String ANNOTATION = MyAnnotation.class.getName().replace('.', '/');
+
+	/**
+	 * Корневая директория большого дерева.
+	 */
+	@TempDir
+	static Path largeRoot;
+
+	/**
+	 * Генерирует большое дерево классов.
+	 */
+	@BeforeAll
+	public static void generateLargeTree() throws IOException
+	{
+		for (int index = 0; index < CLASSES; index++)
+		{
+			String pkg = "stress/p" + (index / CLASSES_PER_PACKAGE);
+
+			writeClass(largeRoot, pkg + "/C" + index, index % ANNOTATED_EVERY == 0);
+		}
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} на большом дереве.
+	 */
+	@Test
+	public void findAnnotatedClassNamesManyClasses() throws ReflectiveOperationException
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner(largeRoot.toString());
+
+		// Прогрев
+		annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		long startBytes = allocatedBytes();
+		long startTime = System.nanoTime();
+
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		long actualNanos = System.nanoTime() - startTime;
+		long actualBytes = allocatedBytes() - startBytes;
+
+		assertThat(annotatedClasses.size()).isEqualTo(expectedAnnotated(CLASSES));
+		assertThat(actualNanos).isLessThan(MAX_NANOS_PER_CLASS * CLASSES);
+		assertThat(actualBytes).isLessThan(MAX_BYTES_PER_CLASS * CLASSES);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotatedClasses#loadClasses(ClassLoader, boolean)} на большом дереве.
+	 */
+	@Test
+	public void loadClassesManyClasses() throws IOException
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner(largeRoot.toString());
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		try (URLClassLoader classLoader = new URLClassLoader(
+			new URL[]{largeRoot.toUri().toURL()},
+			AnnotationScannerStressTest.class.getClassLoader()
+		))
+		{
+			List<Class<?>> actualClasses = annotatedClasses.loadClasses(classLoader, true);
+
+			assertThat(actualClasses).hasSize(expectedAnnotated(CLASSES));
+			assertThat(actualClasses).allMatch(objectClass -> objectClass.isAnnotationPresent(MyAnnotation.class));
+		}
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} с повторяющимися пакетами.
+	 */
+	@Test
+	public void findAnnotatedClassNamesDuplicatePackages()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner(largeRoot.toString());
+		annotationScanner.setProfiling(true);
+		annotationScanner.addPackage("stress");
+		annotationScanner.addPackage("stress.p1");
+		annotationScanner.addPackage("stress.p0");
+		annotationScanner.addPackage("stress.p0");
+
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		assertThat(annotatedClasses.size()).isEqualTo(expectedAnnotated(CLASSES));
+		assertThat(annotatedClasses.getClassNames()).doesNotHaveDuplicates();
+		assertThat(annotationScanner.getScanProfile()).isNotNull();
+		assertThat(annotationScanner.getScanProfile().getTotal().getFiles()).isEqualTo(CLASSES);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} при параллельном сканировании.
+	 */
+	@Test
+	public void findAnnotatedClassNamesConcurrent() throws Exception
+	{
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try
+		{
+			List<Future<List<String>>> futures = new ArrayList<>();
+
+			for (int index = 0; index < threads; index++)
+			{
+				futures.add(executor.submit(() -> {
+					AnnotationScanning annotationScanner = new AnnotationScanner(largeRoot.toString());
+					annotationScanner.addPackage("stress");
+
+					return annotationScanner.findAnnotatedClassNames(MyAnnotation.class).getClassNames();
+				}));
+			}
+
+			List<String> expectedClassNames = futures.get(0).get(5, TimeUnit.MINUTES);
+
+			assertThat(expectedClassNames).hasSize(expectedAnnotated(CLASSES));
+
+			for (Future<List<String>> future : futures) {
+				assertThat(future.get(5, TimeUnit.MINUTES)).containsExactlyInAnyOrderElementsOf(expectedClassNames);
+			}
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} с глубокой вложенностью директорий.
+	 */
+	@Test
+	public void findAnnotatedClassNamesDeepNesting(@TempDir final Path root) throws IOException
+	{
+		int depth = 300;
+		StringBuilder pkg = new StringBuilder("deep");
+
+		for (int level = 0; level < depth; level++)
+		{
+			writeClass(root, pkg + "/C", true);
+			pkg.append("/d").append(level);
+		}
+
+		AnnotationScanning annotationScanner = new AnnotationScanner(root.toString());
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		assertThat(annotatedClasses.size()).isEqualTo(depth);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} со скрытыми и нечитаемыми файлами.
+	 */
+	@Test
+	public void findAnnotatedClassNamesHiddenAndUnreadable(@TempDir final Path root) throws IOException
+	{
+		writeClass(root, "files/Visible", true);
+		writeClass(root, "files/.Hidden", true);
+		writeClass(root, "files/.hidden/Hidden", true);
+		writeClass(root, "files/NotAnnotated", false);
+
+		Path unreadable = writeClass(root, "files/Unreadable", true);
+		Path unreadableDirectory = writeClass(root, "files/locked/Locked", true).getParent();
+		Files.writeString(root.resolve("files/Broken.class"), "not a class", StandardCharsets.UTF_8);
+		Files.writeString(root.resolve("files/readme.txt"), "text", StandardCharsets.UTF_8);
+
+		try
+		{
+			Files.setPosixFilePermissions(unreadable, PosixFilePermissions.fromString("---------"));
+			Files.setPosixFilePermissions(unreadableDirectory, PosixFilePermissions.fromString("---------"));
+		}
+		catch (UnsupportedOperationException exception)
+		{
+			// Файловая система не поддерживает права доступа POSIX
+		}
+
+		// Права доступа не действуют, например, для суперпользователя
+		assumeFalse(Files.isReadable(unreadable), "Unreadable files are readable");
+		assumeFalse(Files.isReadable(unreadableDirectory), "Unreadable directories are readable");
+
+		AnnotationScanning annotationScanner = new AnnotationScanner(root.toString());
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		assertThat(annotatedClasses.getClassNames()).containsExactly("files.Visible");
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} с циклическими символьными ссылками.
+	 */
+	@Test
+	public void findAnnotatedClassNamesSymlinkLoop(@TempDir final Path root) throws IOException
+	{
+		Path loop = writeClass(root, "loop/inner/Looped", true).getParent();
+
+		try
+		{
+			Files.createSymbolicLink(loop.resolve("self"), loop);
+			Files.createSymbolicLink(loop.resolve("parent"), loop.getParent());
+		}
+		catch (UnsupportedOperationException | IOException exception)
+		{
+			assumeTrue(false, "Symbolic links are not supported");
+		}
+
+		AnnotationScanning annotationScanner = new AnnotationScanner(root.toString());
+		annotationScanner.setProfiling(true);
+
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		assertThat(annotatedClasses.getClassNames()).containsExactly("loop.inner.Looped");
+		assertThat(annotationScanner.getScanProfile()).isNotNull();
+		assertThat(annotationScanner.getScanProfile().getTotal().getFiles()).isEqualTo(1);
+	}
+
+	/**
+	 * Возвращает количество памяти, выделенной текущим потоком.
+	 * <p>
+	 * Вызов выполняется через рефлексию, так как модуль не читает {@code jdk.management},
+	 * а профиль {@code stress} лишь добавляет его в граф модулей.
+	 *
+	 * @return количество выделенной памяти в байтах.
+	 */
+	private static long allocatedBytes() throws ReflectiveOperationException
+	{
+		Object threadMXBean = Class.forName("java.lang.management.ManagementFactory")
+			.getMethod("getThreadMXBean")
+			.invoke(null);
+
+		return (long) Class.forName("com.sun.management.ThreadMXBean")
+			.getMethod("getThreadAllocatedBytes", long.class)
+			.invoke(threadMXBean, Thread.currentThread().getId());
+	}
+
+	/**
+	 * Возвращает ожидаемое количество аннотированных классов.
+	 *
+	 * @param classes количество классов.
+	 * @return ожидаемое количество аннотированных классов.
+	 */
+	private static int expectedAnnotated(final int classes)
+	{
+		return (classes + ANNOTATED_EVERY - 1) / ANNOTATED_EVERY;
+	}
+
+	/**
+	 * Записывает сгенерированный байт-код класса.
+	 *
+	 * @param root корневая директория.
+	 * @param internalName внутреннее название класса.
+	 * @param annotated наличие аннотации {@link MyAnnotation}.
+	 * @return путь до файла класса.
+	 */
+	private static Path writeClass(final Path root, final String internalName, final boolean annotated)
+		throws IOException
+	{
+		Path path = root.resolve(internalName + ".class");
+		Files.createDirectories(path.getParent());
+		Files.write(path, generateClass(internalName, annotated));
+
+		return path;
+	}
+
+	/**
+	 * Генерирует байт-код пустого класса.
+	 *
+	 * @param internalName внутреннее название класса.
+	 * @param annotated наличие аннотации {@link MyAnnotation}.
+	 * @return байт-код класса.
+	 */
+	private static byte[] generateClass(final String internalName, final boolean annotated)
+		throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		output.writeInt(0xCAFEBABE);
+		output.writeShort(0);
+		output.writeShort(61);
+
+		output.writeShort(7);
+		output.writeByte(1);
+		output.writeUTF(internalName);
+		output.writeByte(7);
+		output.writeShort(1);
+		output.writeByte(1);
+		output.writeUTF("java/lang/Object");
+		output.writeByte(7);
+		output.writeShort(3);
+		output.writeByte(1);
+		output.writeUTF("RuntimeVisibleAnnotations");
+		output.writeByte(1);
+		output.writeUTF("L" + ANNOTATION + ";");
+
+		output.writeShort(0x0021);
+		output.writeShort(2);
+		output.writeShort(4);
+		output.writeShort(0);
+		output.writeShort(0);
+		output.writeShort(0);
+
+		if (annotated)
+		{
+			output.writeShort(1);
+			output.writeShort(5);
+			output.writeInt(6);
+			output.writeShort(1);
+			output.writeShort(6);
+			output.writeShort(0);
+		}
+		else
+		{
+			output.writeShort(0);
+		}
+
+		return bytes.toByteArray();
+	}
+}
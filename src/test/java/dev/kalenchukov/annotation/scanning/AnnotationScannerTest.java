@@ -25,9 +25,20 @@
 package dev.kalenchukov.annotation.scanning;
 
 import dev.kalenchukov.annotation.scanning.test.annotations.MyAnnotation;
+import dev.kalenchukov.annotation.scanning.test.annotations.MyInheritedAnnotation;
+import dev.kalenchukov.annotation.scanning.test.initialization.Initializations;
+import dev.kalenchukov.annotation.scanning.test.initialization.eager.Eager;
+import dev.kalenchukov.annotation.scanning.test.inheritance.children.Child;
+import dev.kalenchukov.annotation.scanning.test.inheritance.children.GrandChild;
+import dev.kalenchukov.annotation.scanning.test.inheritance.parents.Parent;
+import dev.kalenchukov.annotation.scanning.test.packages.films.Film;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -82,4 +93,194 @@ public class AnnotationScannerTest
 
 		assertThat(actualSize).isEqualTo(4);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClasses(Class)} по вложенным друг в друга пакетам.
+	 */
+	@Test
+	public void findAnnotatedClassesNestedPackages()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages.musics.rock");
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages");
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages.musics");
+		annotationScanner.setProfiling(true);
+		List<Class<?>> annotatedClasses = annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+
+		ScanProfile actualScanProfile = annotationScanner.getScanProfile();
+
+		assertThat(annotatedClasses).hasSize(4).doesNotHaveDuplicates();
+		assertThat(actualScanProfile).isNotNull();
+		assertThat(actualScanProfile.getTotal().getFiles()).isEqualTo(4);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClasses(Class)} с указанной корневой директорией.
+	 */
+	@Test
+	public void findAnnotatedClassesRootDirectory()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner(
+			Path.of(System.getProperty("user.dir"), "target", "classes").toString()
+		);
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages");
+		List<Class<?>> annotatedClasses = annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+
+		int actualSize = annotatedClasses.size();
+
+		assertThat(actualSize).isEqualTo(4);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)}.
+	 */
+	@Test
+	public void findAnnotatedClassNames()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages");
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyAnnotation.class);
+
+		List<String> actualClassNames = annotatedClasses.getClassNames();
+
+		assertThat(actualClassNames).hasSize(4).contains(Film.class.getName());
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} с наследуемой аннотацией
+	 * у родительского класса в сканируемом пакете.
+	 */
+	@Test
+	public void findAnnotatedClassNamesInheritedInside()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.inheritance");
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyInheritedAnnotation.class);
+
+		List<String> actualClassNames = annotatedClasses.getClassNames();
+
+		assertThat(actualClassNames).containsExactlyInAnyOrder(
+			Parent.class.getName(),
+			Child.class.getName(),
+			GrandChild.class.getName()
+		);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClassNames(Class)} с наследуемой аннотацией
+	 * у родительского класса вне сканируемого пакета.
+	 */
+	@Test
+	public void findAnnotatedClassNamesInheritedOutside()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.inheritance.children");
+		AnnotatedClasses annotatedClasses = annotationScanner.findAnnotatedClassNames(MyInheritedAnnotation.class);
+
+		List<String> actualClassNames = annotatedClasses.getClassNames();
+
+		assertThat(actualClassNames).containsExactlyInAnyOrder(
+			Child.class.getName(),
+			GrandChild.class.getName()
+		);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#findAnnotatedClasses(Class)} с инициализацией классов.
+	 */
+	@Test
+	public void findAnnotatedClassesInitialized()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.initialization.eager");
+		List<Class<?>> annotatedClasses = annotationScanner.findAnnotatedClasses(MyInheritedAnnotation.class);
+
+		assertThat(annotatedClasses).hasSize(1);
+		assertThat(Initializations.isInitialized(Eager.class.getName())).isTrue();
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#getScanProfile()}.
+	 */
+	@Test
+	public void getScanProfile() throws IOException
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages.films");
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages.musics");
+		annotationScanner.setProfiling(true, 3);
+		annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+
+		ScanProfile actualScanProfile = annotationScanner.getScanProfile();
+
+		assertThat(actualScanProfile).isNotNull();
+		assertThat(actualScanProfile.getTotal().getFiles()).isEqualTo(4);
+		assertThat(actualScanProfile.getTotal().getMatches()).isEqualTo(4);
+		assertThat(actualScanProfile.getTotal().getClassesLoaded()).isEqualTo(4);
+		assertThat(actualScanProfile.getTotal().getBytesRead()).isEqualTo(
+			sizeOf("dev/kalenchukov/annotation/scanning/test/packages")
+		);
+		assertThat(actualScanProfile.getRoots()).hasSize(2);
+		assertThat(actualScanProfile.getPackages()).extracting(ScanProfile.Statistics::getName).containsExactlyInAnyOrder(
+			"dev.kalenchukov.annotation.scanning.test.packages.films",
+			"dev.kalenchukov.annotation.scanning.test.packages.musics",
+			"dev.kalenchukov.annotation.scanning.test.packages.musics.rock"
+		);
+		assertThat(actualScanProfile.getSlowestFiles()).hasSize(3);
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#getScanProfile()} без сбора статистики.
+	 */
+	@Test
+	public void getScanProfileNotProfiling()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages");
+		annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+
+		ScanProfile actualScanProfile = annotationScanner.getScanProfile();
+
+		assertThat(actualScanProfile).isNull();
+	}
+
+	/**
+	 * Проверка метода {@link AnnotationScanner#getScanProfile()} после выключения сбора статистики.
+	 */
+	@Test
+	public void getScanProfileAfterProfilingDisabled()
+	{
+		AnnotationScanning annotationScanner = new AnnotationScanner();
+		annotationScanner.addPackage("dev.kalenchukov.annotation.scanning.test.packages");
+		annotationScanner.setProfiling(true);
+		annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+		annotationScanner.setProfiling(false);
+		annotationScanner.findAnnotatedClasses(MyAnnotation.class);
+
+		ScanProfile actualScanProfile = annotationScanner.getScanProfile();
+
+		assertThat(actualScanProfile).isNull();
+	}
+
+	/**
+	 * Возвращает общий размер файлов в директории скомпилированных классов.
+	 *
+	 * @param directory директория относительно корневой директории классов.
+	 * @return размер файлов в байтах.
+	 */
+	private static long sizeOf(final String directory) throws IOException
+	{
+		Path root = Path.of(System.getProperty("user.dir"), "target", "classes", directory);
+
+		try (Stream<Path> paths = Files.walk(root))
+		{
+			long size = 0;
+
+			for (Path path : paths.filter(Files::isRegularFile).toList()) {
+				size += Files.size(path);
+			}
+
+			return size;
+		}
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import dev.kalenchukov.annotation.scanning.test.annotations.MyAnnotation;
+import dev.kalenchukov.annotation.scanning.test.annotations.MyInheritedAnnotation;
+import dev.kalenchukov.annotation.scanning.test.annotations.MyValuesAnnotation;
+import dev.kalenchukov.annotation.scanning.test.inheritance.children.Child;
+import dev.kalenchukov.annotation.scanning.test.inheritance.parents.Parent;
+import dev.kalenchukov.annotation.scanning.test.values.Values;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Класс проверки методов класса {@link ClassFileReader}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ClassFileReaderTest
+{
+	/**
+	 * Проверка чтения класса с константами long и double и аннотацией со значениями элементов.
+	 */
+	@Test
+	public void readValues() throws IOException
+	{
+		ClassFileReader classFile = read(Values.class);
+
+		assertThat(classFile.getClassName()).isEqualTo(Values.class.getName());
+		assertThat(classFile.getSuperClassName()).isEqualTo(Object.class.getName());
+		assertThat(classFile.hasAnnotation(MyValuesAnnotation.class.getName())).isTrue();
+		assertThat(classFile.hasAnnotation(MyInheritedAnnotation.class.getName())).isTrue();
+		assertThat(classFile.hasAnnotation(MyAnnotation.class.getName())).isFalse();
+	}
+
+	/**
+	 * Проверка чтения родительского класса.
+	 */
+	@Test
+	public void readSuperClassName() throws IOException
+	{
+		ClassFileReader classFile = read(Child.class);
+
+		assertThat(classFile.getClassName()).isEqualTo(Child.class.getName());
+		assertThat(classFile.getSuperClassName()).isEqualTo(Parent.class.getName());
+		assertThat(classFile.hasAnnotation(MyInheritedAnnotation.class.getName())).isFalse();
+	}
+
+	/**
+	 * Проверка чтения файла, который не является классом.
+	 */
+	@Test
+	public void readNotClassFile()
+	{
+		InputStream inputStream = new ByteArrayInputStream("not a class".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> new ClassFileReader(inputStream)).isInstanceOf(IOException.class);
+	}
+
+	/**
+	 * Читает байт-код класса.
+	 *
+	 * @param objectClass класс.
+	 * @return сведения о классе.
+	 */
+	private static ClassFileReader read(final Class<?> objectClass) throws IOException
+	{
+		try (InputStream inputStream = objectClass.getResourceAsStream(objectClass.getSimpleName() + ".class"))
+		{
+			assertThat(inputStream).isNotNull();
+
+			return new ClassFileReader(inputStream);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright © 2022-2023 Алексей Каленчуков
+ * GitHub: https://github.com/kalenchukov
+ * E-mail: mailto:aleksey.kalenchukov@yandex.ru
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.kalenchukov.annotation.scanning;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Класс проверки методов класса {@link ScanProfile}.
+ *
+ * @author Алексей Каленчуков
+ */
+public class ScanProfileTest
+{
+	/**
+	 * Проверка метода {@link ScanProfile#toJson()}.
+	 */
+	@Test
+	public void toJson()
+	{
+		ScanProfile scanProfile = new ScanProfile(
+			new ScanProfile.Statistics("", Duration.ofNanos(30), 2, 200, 1, 1),
+			List.of(new ScanProfile.Statistics("/classes/dev", Duration.ofNanos(20), 2, 200, 1, 1)),
+			List.of(new ScanProfile.Statistics("dev", Duration.ofNanos(10), 2, 200, 1, 1)),
+			List.of(new ScanProfile.FileStatistics("/classes/dev/\"A\".class", Duration.ofNanos(5), 100))
+		);
+
+		String actualJson = scanProfile.toJson();
+
+		assertThat(actualJson).isEqualTo(
+			"{\"total\":{\"name\":\"\",\"durationNanos\":30,\"files\":2,\"bytesRead\":200,\"classesLoaded\":1,\"matches\":1}," +
+			"\"roots\":[{\"name\":\"/classes/dev\",\"durationNanos\":20,\"files\":2,\"bytesRead\":200,\"classesLoaded\":1,\"matches\":1}]," +
+			"\"packages\":[{\"name\":\"dev\",\"durationNanos\":10,\"files\":2,\"bytesRead\":200,\"classesLoaded\":1,\"matches\":1}]," +
+			"\"slowestFiles\":[{\"path\":\"/classes/dev/\\\"A\\\".class\",\"durationNanos\":5,\"bytesRead\":100}]}"
+		);
+	}
+}